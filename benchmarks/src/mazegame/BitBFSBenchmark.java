@@ -0,0 +1,98 @@
+package mazegame;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// benchmarks for finding the distance layers of a maze with the word-packed
+// breadth-first search, against a search of the same topology that reaches
+// one cell at a time
+// NOTE: the cell-at-a-time search is ParallelBFS on a pool of one thread,
+//       which finds the same layers a level at a time as the word-packed
+//       search does, with no marks or path to keep besides
+// NOTE: a perfect maze keeps few cells in each word of a level, while a maze
+//       with no walls inside fills whole words, so the two bound the speedup
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BitBFSBenchmark extends SizedBenchmark {
+    // are all walls inside the maze down, rather than generated?
+    @Param({"false", "true"})
+    public boolean open;
+
+    // source of the walls to search
+    Maze maze;
+    // walls of the maze
+    MazeTopology topology;
+    // runs the cell-at-a-time search on the benchmark's own thread
+    ForkJoinPool pool;
+
+    // EFFECT: generate the maze to search with Kruskal's algorithm, or take
+    // all its walls down
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.parseSize();
+        this.maze = new Maze(this.width, this.height, true, SEED);
+        if (this.open) {
+            for (int i = 0; i < this.maze.edgeCount(); i += 1) {
+                this.maze.setEdgeBlocking(this.maze.edgeAt(i), false);
+            }
+        }
+        else {
+            new InstantAnimator(this.maze,
+                    new KruskalAnimator(this.maze, SEED)).onTick();
+        }
+        this.topology = this.maze.freeze();
+        this.pool = new ForkJoinPool(1);
+    }
+
+    // EFFECT: stop the pool
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.pool.shutdown();
+    }
+
+    // find the distance of every cell with the word-packed search, returning
+    // the number of layers
+    @Benchmark
+    public int bits() {
+        BitBFS search = new BitBFS(this.topology);
+        search.solve();
+        return search.layers;
+    }
+
+    // find only the cells reached with the word-packed search, returning the
+    // number of layers
+    @Benchmark
+    public int bitsReachOnly() {
+        BitBFS search = new BitBFS(this.topology, false);
+        search.solve();
+        return search.layers;
+    }
+
+    // reach every cell one at a time, returning the number of layers
+    @Benchmark
+    public int cellByCell() {
+        ParallelBFS search = new ParallelBFS(this.topology, this.pool);
+        while (search.frontier.length > 0) {
+            search.level();
+        }
+        return search.levels;
+    }
+}
@@ -0,0 +1,79 @@
+package mazegame;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// benchmarks for solving a seeded maze braided into loops, at growing loop
+// densities, with each solver that must handle cells reached more than once
+// NOTE: braid is the fraction of dead ends opened, so 0 leaves a perfect
+//       maze and 1 leaves no dead ends at all
+// NOTE: each solve returns the cells it expanded, which loops can raise (a
+//       search finds more ways round) or lower (the exit comes nearer)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BraidBenchmark extends SizedBenchmark {
+    // fraction of dead ends opened after generating
+    @Param({"0", "0.1", "0.25", "0.5", "1"})
+    public double braid;
+
+    // source of the walls to solve
+    Maze maze;
+    // walls of the braided maze
+    MazeTopology topology;
+
+    // EFFECT: generate the maze to solve with Kruskal's algorithm, then braid
+    // it
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.parseSize();
+        this.maze = new Maze(this.width, this.height, true, SEED);
+        new InstantAnimator(this.maze, new KruskalAnimator(this.maze, SEED))
+            .onTick();
+        new InstantAnimator(this.maze,
+                new BraidAnimator(this.maze, this.braid, SEED)).onTick();
+        this.topology = this.maze.freeze();
+    }
+
+    // solve the animator to completion, returning the cells it expanded
+    int solve(SolveAnimator solver) {
+        while (!solver.isComplete()) {
+            solver.onTick();
+        }
+        return solver.moves;
+    }
+
+    // solve the braided maze with a depth-first search
+    @Benchmark
+    public int dfs() {
+        return this.solve(new DFSAnimator(this.maze, this.topology));
+    }
+
+    // solve the braided maze with a breadth-first search
+    @Benchmark
+    public int bfs() {
+        return this.solve(new BFSAnimator(this.maze, this.topology));
+    }
+
+    // solve the braided maze with an A* search
+    @Benchmark
+    public int astar() {
+        return this.solve(new AStarAnimator(this.maze, this.topology));
+    }
+
+}
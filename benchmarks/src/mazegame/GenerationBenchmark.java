@@ -0,0 +1,112 @@
+package mazegame;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// benchmarks for weighting a maze and generating it to completion with each
+// generator, in both storage modes
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class GenerationBenchmark extends SizedBenchmark {
+    // is the maze stored in compact mode?
+    @Param({"false", "true"})
+    public boolean compact;
+
+    // regenerated by every op, always from the same weights
+    Maze maze;
+    // the edge order of the weighted maze in compact mode, given back to it
+    // before every op, since generating drops it and the next generator would
+    // otherwise time drawing a new one
+    int[] order;
+
+    // EFFECT: build and weight the maze to generate
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.parseSize();
+        this.maze = new Maze(this.width, this.height, this.compact, SEED);
+        this.maze.assignRandomWeights(SEED);
+        this.order = this.maze.edgeOrder;
+    }
+
+    // EFFECT: give the maze's edges new random weights, in sorted order
+    @Benchmark
+    public void assignRandomWeights() {
+        this.maze.assignRandomWeights();
+    }
+
+    // EFFECT: give the maze's edges new random weights, in sorted order,
+    // drawing and sorting them on every core
+    @Benchmark
+    public void assignRandomWeightsParallel() {
+        this.maze.assignRandomWeightsParallel();
+    }
+
+    // EFFECT: generate the maze with Kruskal's algorithm, ticking its
+    // animator until complete
+    @Benchmark
+    public int kruskal() {
+        this.maze.edgeOrder = this.order;
+        KruskalAnimator kruskal = new KruskalAnimator(this.maze);
+        while (!kruskal.isComplete()) {
+            kruskal.onTick();
+        }
+        return kruskal.edgesUsed;
+    }
+
+    // EFFECT: generate the maze with Boruvka's algorithm, ticking its
+    // animator until complete
+    @Benchmark
+    public int boruvka() {
+        this.maze.edgeOrder = this.order;
+        BoruvkaAnimator boruvka = new BoruvkaAnimator(this.maze);
+        while (!boruvka.isComplete()) {
+            boruvka.onTick();
+        }
+        return boruvka.gen.rounds;
+    }
+
+    // EFFECT: generate the maze with Eller's algorithm, ticking its animator
+    // until complete
+    @Benchmark
+    public int eller() {
+        EllerAnimator eller = new EllerAnimator(this.maze, SEED);
+        while (!eller.isComplete()) {
+            eller.onTick();
+        }
+        return eller.gen.rows;
+    }
+
+    // EFFECT: generate the maze by recursive division, dividing its chambers
+    // on every core
+    @Benchmark
+    public void division() {
+        new DivisionGenerator(this.maze, SEED).generate();
+    }
+
+    // EFFECT: generate the maze by recursive division, ticking its animator
+    // a level at a time until complete
+    @Benchmark
+    public int divisionLevels() {
+        DivisionAnimator division = new DivisionAnimator(this.maze, SEED);
+        while (!division.isComplete()) {
+            division.onTick();
+        }
+        return division.gen.levels;
+    }
+}
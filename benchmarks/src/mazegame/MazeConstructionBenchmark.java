@@ -0,0 +1,54 @@
+package mazegame;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// benchmarks for building the board of a maze with all walls up
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MazeConstructionBenchmark extends SizedBenchmark {
+    // rebuilt in place by every op
+    Maze maze;
+    Maze compact;
+
+    // EFFECT: build the mazes to rebuild
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.parseSize();
+        this.maze = new Maze(this.width, this.height, false, SEED);
+        this.compact = new Maze(this.width, this.height, true, SEED);
+    }
+
+    // EFFECT: replace the maze's cells with new unconnected ones
+    @Benchmark
+    public void constructCells() {
+        this.maze.constructCells(this.width, this.height);
+    }
+
+    // EFFECT: replace the maze's edges with new ones between its cells
+    @Benchmark
+    public void connectCells() {
+        this.maze.connectCells();
+    }
+
+    // EFFECT: replace the compact maze's walls and marks with new ones
+    @Benchmark
+    public void initializeCompactBoard() {
+        this.compact.initializeCompactBoard(this.width, this.height);
+    }
+}
@@ -0,0 +1,90 @@
+package mazegame;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// benchmarks for the level-synchronous breadth-first search and parallel
+// dead-end filling on pools of different sizes, against the sequential search
+// of the same topology
+// NOTE: the frontiers of a perfect maze stay narrow (a few hundred cells
+//       even at 4096x4096), so expect little speedup from more threads for
+//       the search; filling starts from every dead end at once instead
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParallelBFSBenchmark extends SizedBenchmark {
+    // number of worker threads of the pool
+    @Param({"1", "2", "4"})
+    public int threads;
+
+    // source of the walls to search
+    Maze maze;
+    // walls of the generated maze
+    MazeTopology topology;
+    // runs the tasks of the parallel search
+    ForkJoinPool pool;
+
+    // EFFECT: generate the maze to solve with Kruskal's algorithm and start
+    // the pool
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.parseSize();
+        this.maze = new Maze(this.width, this.height, true, SEED);
+        new InstantAnimator(this.maze, new KruskalAnimator(this.maze, SEED))
+            .onTick();
+        this.topology = this.maze.freeze();
+        this.pool = new ForkJoinPool(this.threads);
+    }
+
+    // EFFECT: stop the pool
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.pool.shutdown();
+    }
+
+    // solve the topology with the parallel search, returning its levels
+    @Benchmark
+    public int parallel() {
+        ParallelBFS search = new ParallelBFS(this.topology, this.pool);
+        search.solve();
+        return search.levels;
+    }
+
+    // fill the dead ends of the topology in parallel, returning the number
+    // of cells filled
+    @Benchmark
+    public int deadEndFill() {
+        ParallelDeadEndFill filler =
+                new ParallelDeadEndFill(this.topology, this.pool);
+        filler.solve();
+        return filler.filled;
+    }
+
+    // EFFECT: solve the topology with the sequential search, returning its
+    // moves
+    @Benchmark
+    public int sequential() {
+        BFSAnimator solver = new BFSAnimator(this.maze, this.topology);
+        while (!solver.isComplete()) {
+            solver.onTick();
+        }
+        return solver.moves;
+    }
+}
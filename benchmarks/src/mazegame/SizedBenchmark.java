@@ -0,0 +1,36 @@
+package mazegame;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+// to represent benchmarks run at every size of maze: MazeWorld's presets from
+// the Tiny Maze to the Huge Maze, then mazes far too big to draw
+@State(Scope.Benchmark)
+public abstract class SizedBenchmark {
+    // seed of every random choice, so each run measures the same mazes
+    static final long SEED = 42;
+
+    // size of the maze, as width x height in cells
+    @Param({"10x6", "25x15", "50x30", "100x60", "1024x1024", "4096x4096"})
+    public String size;
+
+    int width;
+    int height;
+
+    // EFFECT: modify width and height to match size
+    void parseSize() {
+        this.width = widthOf(this.size);
+        this.height = heightOf(this.size);
+    }
+
+    // the width in cells of the given size, as width x height
+    static int widthOf(String size) {
+        return Integer.parseInt(size.substring(0, size.indexOf('x')));
+    }
+
+    // the height in cells of the given size, as width x height
+    static int heightOf(String size) {
+        return Integer.parseInt(size.substring(size.indexOf('x') + 1));
+    }
+}
@@ -0,0 +1,207 @@
+package mazegame;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// benchmarks for solving a seeded maze to completion with each solver, in
+// both storage modes
+// NOTE: besides solves per second, every benchmark counts the cells it
+//       visits as cells/s, so dividing gc.alloc.rate.norm by the cells per
+//       solve gives the bytes allocated per solved cell
+// NOTE: the Frozen benchmarks never modify the maze, so they alone may run
+//       with more than one thread (-t), all sharing one topology
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SolverBenchmark extends SizedBenchmark {
+    // is the maze stored in compact mode?
+    @Param({"false", "true"})
+    public boolean compact;
+    // do the solvers work by cell index, even on a default maze?
+    @Param({"false", "true"})
+    public boolean fast;
+
+    // solved again by every op
+    Maze maze;
+    // walls of the generated maze
+    MazeTopology topology;
+
+    // to count the cells visited by the solves of one iteration
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SolvedCells {
+        public long cells;
+
+        // EFFECT: reset the count for the next iteration
+        @Setup(Level.Iteration)
+        public void clear() {
+            this.cells = 0;
+        }
+    }
+
+    // EFFECT: generate the maze to solve with Kruskal's algorithm, then give
+    // its passages random costs for Dijkstra's search
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.parseSize();
+        this.maze = new Maze(this.width, this.height, this.compact, SEED);
+        new InstantAnimator(this.maze, new KruskalAnimator(this.maze, SEED))
+            .onTick();
+        this.maze.assignRandomCosts(SEED);
+        this.topology = this.maze.freeze();
+    }
+
+    // EFFECT: solve the maze with a depth-first search, ticking its animator
+    // until complete
+    @Benchmark
+    public int dfs(SolvedCells solved) {
+        this.maze.resetTraversals();
+        return this.solve(new DFSAnimator(this.maze, this.fast), solved);
+    }
+
+    // EFFECT: solve the maze with a breadth-first search, ticking its
+    // animator until complete
+    @Benchmark
+    public int bfs(SolvedCells solved) {
+        this.maze.resetTraversals();
+        return this.solve(new BFSAnimator(this.maze, this.fast), solved);
+    }
+
+    // EFFECT: solve the maze with an A* search, ticking its animator until
+    // complete
+    @Benchmark
+    public int astar(SolvedCells solved) {
+        this.maze.resetTraversals();
+        return this.solve(new AStarAnimator(this.maze), solved);
+    }
+
+    // EFFECT: solve the maze with Dijkstra's search over the costs of its
+    // passages, ticking its animator until complete
+    @Benchmark
+    public int dijkstra(SolvedCells solved) {
+        this.maze.resetTraversals();
+        return this.solve(new DijkstraAnimator(this.maze), solved);
+    }
+
+    // EFFECT: solve the maze with a breadth-first search from both ends,
+    // ticking its animator until complete
+    @Benchmark
+    public int bibfs(SolvedCells solved) {
+        this.maze.resetTraversals();
+        return this.solve(new BiBFSAnimator(this.maze), solved);
+    }
+
+    // EFFECT: solve the maze a corridor at a time through its junction
+    // graph, which the maze builds once and keeps for every later op
+    @Benchmark
+    public int junction(SolvedCells solved) {
+        this.maze.resetTraversals();
+        return this.solve(new JunctionAnimator(this.maze), solved);
+    }
+
+    // EFFECT: solve the shared topology with a depth-first search of its own
+    @Benchmark
+    public int dfsFrozen(SolvedCells solved) {
+        return this.solve(new DFSAnimator(this.maze, this.topology), solved);
+    }
+
+    // EFFECT: solve the shared topology with a breadth-first search of its
+    // own
+    @Benchmark
+    public int bfsFrozen(SolvedCells solved) {
+        return this.solve(new BFSAnimator(this.maze, this.topology), solved);
+    }
+
+    // EFFECT: solve the shared topology with an A* search of its own
+    @Benchmark
+    public int astarFrozen(SolvedCells solved) {
+        return this.solve(new AStarAnimator(this.maze, this.topology), solved);
+    }
+
+    // EFFECT: solve the shared topology with a breadth-first search from
+    // both ends of its own
+    @Benchmark
+    public int bibfsFrozen(SolvedCells solved) {
+        return this.solve(new BiBFSAnimator(this.maze, this.topology), solved);
+    }
+
+    // EFFECT: build a junction graph of the shared topology, then solve it a
+    // corridor at a time
+    @Benchmark
+    public int junctionFrozen(SolvedCells solved) {
+        return this.solve(new JunctionAnimator(this.maze, this.topology),
+                solved);
+    }
+
+    // walk the shared topology with a hand on the right wall to the exit,
+    // keeping nothing of the walk, and return its number of steps
+    // NOTE: compare gc.alloc.rate.norm against the other solvers to see that
+    //       the walk allocates nothing per cell
+    @Benchmark
+    public long wallFollowerFrozen(SolvedCells solved) {
+        IgnoredCells ignored = new IgnoredCells();
+        WallFollower follower = new WallFollower(
+                new TopologyWallReader(this.topology), 0, 0,
+                this.width - 1, this.height - 1, ignored);
+        follower.solve(Long.MAX_VALUE);
+        solved.cells += follower.steps;
+        return follower.steps;
+    }
+
+    // to take the cells of a walk without keeping them
+    static class IgnoredCells implements IPositionSink {
+        // EFFECT: nothing, since the cell is not kept
+        public void acceptPosition(int x, int y) {
+            // DO NOTHING since the walk is only counted
+        }
+    }
+
+    // find the distance of every cell from the exit of the shared topology,
+    // returning the greatest
+    @Benchmark
+    public int distanceFieldFrozen() {
+        return new DistanceField(this.topology).maxDistance;
+    }
+
+    // walk the route from the start to the exit through the maze's cached
+    // distances, returning its length
+    // NOTE: only the first op of a trial searches, so this measures the
+    //       cost of a solution once the walls stop changing
+    @Benchmark
+    public int cachedRoute() {
+        DistanceField field = this.maze.distancesToExit();
+        int steps = 0;
+        int curr = field.next(this.maze.getFirstIndex());
+        while (curr != DistanceField.NONE) {
+            steps += 1;
+            curr = field.next(curr);
+        }
+        return steps;
+    }
+
+    // EFFECT: tick the given solver until complete, counting the cells it
+    // visits in solved, and return its number of moves
+    int solve(SolveAnimator solver, SolvedCells solved) {
+        while (!solver.isComplete()) {
+            solver.onTick();
+        }
+        solved.cells += solver.moves;
+        return solver.moves;
+    }
+}
@@ -0,0 +1,96 @@
+package mazegame;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// benchmarks for building the tree index of a seeded maze, and for answering
+// path queries between random pairs of its cells with it
+// NOTE: each query op answers QUERIES queries, so the scores are per query
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TreeIndexBenchmark extends SizedBenchmark {
+    // number of pairs of cells queried by each op
+    static final int QUERIES = 1024;
+
+    // generated with Kruskal's algorithm, in compact mode
+    Maze maze;
+    // index of maze's tree
+    TreeIndex tree;
+    // the pairs of cells to query, by position
+    int[] from;
+    int[] to;
+
+    // EFFECT: generate the maze, index it, and draw the pairs to query
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.parseSize();
+        this.maze = new Maze(this.width, this.height, true, SEED);
+        new InstantAnimator(this.maze, new KruskalAnimator(this.maze, SEED))
+            .onTick();
+        this.tree = new TreeIndex(this.maze);
+        Random rand = new Random(SEED);
+        this.from = new int[QUERIES];
+        this.to = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i += 1) {
+            this.from[i] = rand.nextInt(this.maze.cellCount());
+            this.to[i] = rand.nextInt(this.maze.cellCount());
+        }
+    }
+
+    // build the tree index of the maze, returning the depth of its exit
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int build() {
+        return new TreeIndex(this.maze).depth[this.maze.getFinalIndex()];
+    }
+
+    // find the length of the path between each pair, returning their sum
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public long pathLength() {
+        long total = 0;
+        for (int i = 0; i < QUERIES; i += 1) {
+            total += this.tree.pathLength(this.from[i], this.to[i]);
+        }
+        return total;
+    }
+
+    // stream the cells of the path between each pair, returning how many
+    // there were
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public long streamPath() {
+        CellCount count = new CellCount();
+        for (int i = 0; i < QUERIES; i += 1) {
+            this.tree.streamPath(this.from[i], this.to[i], count);
+        }
+        return count.cells;
+    }
+
+    // to count the cells of paths without keeping them
+    static class CellCount implements ICellSink {
+        long cells;
+
+        // EFFECT: count the given cell
+        public void acceptCell(int index) {
+            this.cells += 1;
+        }
+    }
+}
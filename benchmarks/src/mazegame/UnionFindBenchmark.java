@@ -0,0 +1,69 @@
+package mazegame;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// benchmarks for UnionFind, running the same sequence of sameGroup and
+// connect operations Kruskal's algorithm does on a maze
+// NOTE: UnionFindPosnBenchmark runs the same operations on UnionFindPosn,
+//       at the preset sizes only
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UnionFindBenchmark extends SizedBenchmark {
+    // the cells on either side of every edge, in the order Kruskal's
+    // algorithm tries them
+    int[] cells1;
+    int[] cells2;
+
+    // EFFECT: list the cells of every edge of a randomly weighted maze
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.parseSize();
+        Maze maze = weightedMaze(this.width, this.height);
+        int count = maze.edgeCount();
+        this.cells1 = new int[count];
+        this.cells2 = new int[count];
+        for (int i = 0; i < count; i += 1) {
+            this.cells1[i] = maze.edgeCell1(maze.edgeAt(i));
+            this.cells2[i] = maze.edgeCell2(maze.edgeAt(i));
+        }
+    }
+
+    // a compact maze of given size with seeded random weights, whose edge
+    // order is the order Kruskal's algorithm tries its edges in
+    static Maze weightedMaze(int width, int height) {
+        Maze maze = new Maze(width, height, true, SEED);
+        maze.assignRandomWeights(SEED);
+        return maze;
+    }
+
+    // connect every cell with UnionFind, returning the number of groups
+    // joined
+    @Benchmark
+    public int unionFind() {
+        UnionFind uFind = new UnionFind(this.width * this.height);
+        int joined = 0;
+        for (int i = 0; i < this.cells1.length; i += 1) {
+            if (!uFind.sameGroup(this.cells1[i], this.cells2[i])) {
+                uFind.connect(this.cells1[i], this.cells2[i]);
+                joined += 1;
+            }
+        }
+        return joined;
+    }
+}
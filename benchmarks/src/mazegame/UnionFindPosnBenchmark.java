@@ -0,0 +1,77 @@
+package mazegame;
+
+import java.util.concurrent.TimeUnit;
+
+import javalib.worldimages.Posn;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// benchmarks for UnionFindPosn, running the operations of UnionFindBenchmark
+// NOTE: UnionFindPosn neither balances nor compresses its groups, so its
+//       chains grow with the maze and sizes past the presets take hours per
+//       op; they only run when asked for, e.g. with -p size=1024x1024
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UnionFindPosnBenchmark {
+    // size of the maze, as width x height in cells: MazeWorld's presets from
+    // the Tiny Maze to the Huge Maze
+    @Param({"10x6", "25x15", "50x30", "100x60"})
+    public String size;
+
+    int width;
+    int height;
+    // the cells on either side of every edge, in the order Kruskal's
+    // algorithm tries them
+    Posn[] posns1;
+    Posn[] posns2;
+
+    // EFFECT: list the cells of every edge of a randomly weighted maze
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.width = SizedBenchmark.widthOf(this.size);
+        this.height = SizedBenchmark.heightOf(this.size);
+        Maze maze = UnionFindBenchmark.weightedMaze(this.width, this.height);
+        int count = maze.edgeCount();
+        this.posns1 = new Posn[count];
+        this.posns2 = new Posn[count];
+        for (int i = 0; i < count; i += 1) {
+            this.posns1[i] = this.posnOf(maze.edgeCell1(maze.edgeAt(i)));
+            this.posns2[i] = this.posnOf(maze.edgeCell2(maze.edgeAt(i)));
+        }
+    }
+
+    // the Posn of the cell at the given index
+    Posn posnOf(int index) {
+        return new Posn(index % this.width, index / this.width);
+    }
+
+    // connect every cell with UnionFindPosn, returning the number of groups
+    // joined
+    @Benchmark
+    public int unionFindPosn() {
+        UnionFindPosn uFind = new UnionFindPosn(this.width, this.height);
+        int joined = 0;
+        for (int i = 0; i < this.posns1.length; i += 1) {
+            if (!uFind.sameGroup(this.posns1[i], this.posns2[i])) {
+                uFind.connect(this.posns1[i], this.posns2[i]);
+                joined += 1;
+            }
+        }
+        return joined;
+    }
+}
@@ -0,0 +1,195 @@
+package mazegame;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// benchmarks for the solvers' worklists against ArrayDeque, each moving count
+// items through the worklist
+// NOTE: the generic worklists are given items boxed ahead of time, as the
+//       object-mode solvers hand them Cells that already exist
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class WorklistBenchmark {
+    // number of items moved through the worklist by every op
+    @Param({"1024", "1048576"})
+    public int count;
+
+    // most items held at once in the sliding benchmarks, like the frontier
+    // of a breadth-first search
+    static final int WINDOW = 64;
+
+    Integer[] boxed;
+    // every boxed item in order, as the list of a filled Queue
+    ArrayList<Integer> filled;
+
+    // EFFECT: box the items to move
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.boxed = new Integer[this.count];
+        this.filled = new ArrayList<Integer>(this.count);
+        for (int i = 0; i < this.count; i += 1) {
+            this.boxed[i] = i;
+            this.filled.add(this.boxed[i]);
+        }
+    }
+
+    // EFFECT: push every item, then pop them all
+    @Benchmark
+    public int stackFillDrain() {
+        Stack<Integer> stack = new Stack<Integer>();
+        for (int i = 0; i < this.count; i += 1) {
+            stack.push(this.boxed[i]);
+        }
+        int sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    // EFFECT: push every item onto an ArrayDeque, then pop them all
+    @Benchmark
+    public int arrayDequeStackFillDrain() {
+        ArrayDeque<Integer> stack = new ArrayDeque<Integer>();
+        for (int i = 0; i < this.count; i += 1) {
+            stack.push(this.boxed[i]);
+        }
+        int sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    // EFFECT: push every item onto an IntStack, then pop them all
+    @Benchmark
+    public int intStackFillDrain() {
+        IntStack stack = new IntStack();
+        for (int i = 0; i < this.count; i += 1) {
+            stack.push(i);
+        }
+        int sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    // EFFECT: enqueue every item, then dequeue them all
+    @Benchmark
+    public int queueFillDrain() {
+        Queue<Integer> queue = new Queue<Integer>();
+        for (int i = 0; i < this.count; i += 1) {
+            queue.enqueue(this.boxed[i]);
+        }
+        int sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.dequeue();
+        }
+        return sum;
+    }
+
+    // EFFECT: enqueue every item onto an ArrayDeque, then dequeue them all
+    @Benchmark
+    public int arrayDequeQueueFillDrain() {
+        ArrayDeque<Integer> queue = new ArrayDeque<Integer>();
+        for (int i = 0; i < this.count; i += 1) {
+            queue.addLast(this.boxed[i]);
+        }
+        int sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.removeFirst();
+        }
+        return sum;
+    }
+
+    // EFFECT: enqueue every item onto an IntRingQueue, then dequeue them all
+    @Benchmark
+    public int intRingQueueFillDrain() {
+        IntRingQueue queue = new IntRingQueue();
+        for (int i = 0; i < this.count; i += 1) {
+            queue.enqueue(i);
+        }
+        int sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.dequeue();
+        }
+        return sum;
+    }
+
+    // EFFECT: enqueue every item, dequeuing whenever WINDOW are held, so
+    //   that reset runs over and over
+    @Benchmark
+    public int queueSliding() {
+        Queue<Integer> queue = new Queue<Integer>();
+        int sum = 0;
+        for (int i = 0; i < this.count; i += 1) {
+            queue.enqueue(this.boxed[i]);
+            if (queue.size() > WINDOW) {
+                sum += queue.dequeue();
+            }
+        }
+        return sum;
+    }
+
+    // EFFECT: enqueue every item onto an ArrayDeque, dequeuing whenever
+    //   WINDOW are held
+    @Benchmark
+    public int arrayDequeSliding() {
+        ArrayDeque<Integer> queue = new ArrayDeque<Integer>();
+        int sum = 0;
+        for (int i = 0; i < this.count; i += 1) {
+            queue.addLast(this.boxed[i]);
+            if (queue.size() > WINDOW) {
+                sum += queue.removeFirst();
+            }
+        }
+        return sum;
+    }
+
+    // EFFECT: enqueue every item onto an IntRingQueue, dequeuing whenever
+    //   WINDOW are held
+    @Benchmark
+    public int intRingQueueSliding() {
+        IntRingQueue queue = new IntRingQueue();
+        int sum = 0;
+        for (int i = 0; i < this.count; i += 1) {
+            queue.enqueue(i);
+            if (queue.size() > WINDOW) {
+                sum += queue.dequeue();
+            }
+        }
+        return sum;
+    }
+
+    // EFFECT: compact a Queue whose first half has been dequeued
+    // NOTE: reset copies the items left into a new list and leaves the old
+    //   one as it was, so every op starts from the same filled list, with
+    //   head moved past half its items without letting dequeue reset it
+    @Benchmark
+    public int queueReset() {
+        Queue<Integer> queue = new Queue<Integer>();
+        queue.queue = this.filled;
+        queue.head = this.count / 2;
+        queue.reset();
+        return queue.size();
+    }
+}